@@ -1,8 +1,5 @@
 package chess;
 
-import java.awt.*;
-import java.util.*;
-
 public class AIMoveGen
 {
   MoveList moveList;
@@ -10,14 +7,16 @@ public class AIMoveGen
   private int sourceBlock=64;
   private int destBlock=64;
   private int pieceToMove;
-  private LinkedList possibleMoves;
+  private int bestMove=Move.NONE;
+  //the moves and their worth for each ply of the search
+  private SearchStack searchStack;
 
   private int depth=0;
 
-  public AIMoveGen(MoveList moveList)
+  public AIMoveGen(MoveList moveList, SearchStack searchStack)
   {
     this.moveList = moveList;
-    possibleMoves = new LinkedList();
+    this.searchStack = searchStack;
   }
 
   public int getSourceBlock()
@@ -30,9 +29,9 @@ public class AIMoveGen
     return destBlock;
   }
 
-  public LinkedList getPossibleMoves()
+  public int getMove()
   {
-    return possibleMoves;
+    return bestMove;
   }
 
   public int getPiece()
@@ -47,174 +46,59 @@ public class AIMoveGen
 
   //if the current move is better than the one stored then this move becomes
   //the new best move
-  private void setTarget(int source, int dest, double tempWorth, int piece,
-                         int currentPlayer)
+  private void setTarget(int move, double tempWorth, int piece)
   {
-    //only store all the moves if determining blacks moves
-    if (currentPlayer == 3)
-      possibleMoves.add(new String(source + " " + dest));
-
     if (tempWorth > moveWorth)
     {
       moveWorth = tempWorth;
-      sourceBlock = source;
-      destBlock = dest;
+      bestMove = move;
+      sourceBlock = Move.getSource(move);
+      destBlock = Move.getDest(move);
       pieceToMove = piece;
     }
   }
 
-  private void calcPawnMoveWorth(int source, int currentPlayer, int num)
-  {
-    double tempWorth=0;
-
-    if (currentPlayer == 1)
-    {
-      for (int dest=63; dest>-1; dest--)
-        if (moveList.checkValidWhitePawnMove(source, dest, currentPlayer))
-          if (moveList.tempMoveValid(source, dest, num*1, currentPlayer))
-          {
-            tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-
-            //3 rows from promotion
-            if (dest >= 40) tempWorth++;
-            setTarget(source, dest, tempWorth, num*1, currentPlayer);
-          }
-    }
-    else
-    {
-      for (int dest=0; dest<64; dest++)
-        if (moveList.checkValidBlackPawnMove(source, dest, currentPlayer))
-          if (moveList.tempMoveValid(source, dest, num*1, currentPlayer))
-          {
-            tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-
-            //3 rows from promotion
-            if (dest <= 23) tempWorth++;
-            setTarget(source, dest, tempWorth, num*1, currentPlayer);
-          }
-    }
-  }
-
-  private void calcRookMoveWorth(int source, int currentPlayer, int num)
-  {
-    double tempWorth=0;
-
-    for (int dest=0; dest<64; dest++)
-      if (moveList.checkValidRookMove(source, dest, currentPlayer))
-        if (moveList.tempMoveValid(source, dest, num*2, currentPlayer))
-        {
-          tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-          setTarget(source, dest, tempWorth, num*2, currentPlayer);
-      }
-  }
-
-  private void calcKnightMoveWorth(int source, int currentPlayer, int num)
-  {
-    double tempWorth=0;
-
-    for (int dest=0; dest<64; dest++)
-      if (moveList.checkValidKnightMove(source, dest, currentPlayer))
-        if (moveList.tempMoveValid(source, dest, num*3, currentPlayer))
-        {
-          tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-          setTarget(source, dest, tempWorth, num*3, currentPlayer);
-        }
-  }
-
-  private void calcBishopMoveWorth(int source, int currentPlayer, int num)
-  {
-    double tempWorth=0;
-
-    for (int dest=0; dest<64; dest++)
-      if (moveList.checkValidBishopMove(source, dest, currentPlayer))
-        if (moveList.tempMoveValid(source, dest, num*4, currentPlayer))
-        {
-          tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-          setTarget(source, dest, tempWorth, num*4, currentPlayer);
-        }
-  }
-
-  private void calcQueenMoveWorth(int source, int currentPlayer, int num)
-  {
-    double tempWorth=0;
-
-    for (int dest=0; dest<64; dest++)
-      if (moveList.checkValidQueenMove(source, dest, currentPlayer))
-        if (moveList.tempMoveValid(source, dest, num*5, currentPlayer))
-        {
-          tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-          setTarget(source, dest, tempWorth, num*5, currentPlayer);
-        }
-  }
-
-  private void calcKingMoveWorth(int source, int currentPlayer, int num)
+  //find the best move for currentPlayer without playing it, leaving every
+  //move scored in searchStack at ply. Returns false if there is no move to
+  //make
+  public boolean move(int currentPlayer, int ply)
   {
-    double tempWorth=0;
-
-    for (int dest=0; dest<64; dest++)
-      if (moveList.checkValidKingMove(source, dest, currentPlayer))
-      {
-        tempWorth = moveList.getMoveWorth(source, dest, currentPlayer);
-        setTarget(source, dest, tempWorth, num*6, currentPlayer);
-      }
-  }
-
-  public boolean move(int currentPlayer)
-  {
-    possibleMoves.clear();
     moveWorth = -100.0;
-    int num;
-    if (currentPlayer == 1) num = 1;
-    else num = -1;
-
-    //first check if currently in check mate
-    if (moveList.isCheckMate(currentPlayer))
-      return false;
-
-    for (int source=63; source>-1; source--)
+    bestMove = Move.NONE;
+    sourceBlock = 64;
+    destBlock = 64;
+
+    //every move generated is legal so there is no need to try each one on
+    //the board first. No moves means check mate (or stale mate)
+    int[] moves = searchStack.getMoves(ply);
+    double[] scores = searchStack.getScores(ply);
+    int numMoves = moveList.generateLegalMoves(currentPlayer, moves);
+    int numScored = 0;
+
+    for (int i=0; i<numMoves; i++)
     {
-      //pawn moves
-      if (moveList.getPiece(source) == 1*num)
-        calcPawnMoveWorth(source, currentPlayer, num);
-
-      //rook moves
-      if (moveList.getPiece(source) == 2*num)
-        calcRookMoveWorth(source, currentPlayer, num);
-
-      //knight moves
-      if (moveList.getPiece(source) == 3*num)
-        calcKnightMoveWorth(source, currentPlayer, num);
-
-      //bishop moves
-      if (moveList.getPiece(source) == 4*num)
-        calcBishopMoveWorth(source, currentPlayer, num);
-
-      //queen moves
-      if (moveList.getPiece(source) == 5*num)
-        calcQueenMoveWorth(source, currentPlayer, num);
-
-      //king moves
-      if (moveList.getPiece(source) == 6*num)
-        calcKingMoveWorth(source, currentPlayer, num);
+      int move = moves[i];
+      //the board worth treats every promotion as a queen so the other
+      //pieces would only ever score the same
+      if (Move.getPromotion(move) != 0 && Move.getPromotion(move) != 5)
+        continue;
+
+      int source = Move.getSource(move);
+      int dest = Move.getDest(move);
+      int piece = moveList.getPiece(source);
+      double tempWorth = moveList.getMoveWorth(move, currentPlayer);
+
+      //the scored moves are packed to the front of the ply's moves
+      moves[numScored] = move;
+      scores[numScored++] = tempWorth;
+
+      //3 rows from promotion
+      if ((piece == 1 && dest >= 40) || (piece == -1 && dest <= 23))
+        tempWorth++;
+      setTarget(move, tempWorth, piece);
     }
 
-    if (destBlock >= 0 && destBlock <= 63 && moveWorth >= -100)
-    {
-      if (currentPlayer == 1)
-      {
-        if (pieceToMove == 6 * num)
-          moveList.setCurrentKingPos(destBlock, currentPlayer);
-        moveList.movePiece(sourceBlock, destBlock, pieceToMove);
-      }
-
-      //promote pawn
-      if ((destBlock <= 7 || destBlock >= 56) &&
-          moveList.getPiece(destBlock) == 1 * num)
-        moveList.promotePawn(currentPlayer, 3, destBlock);
-
-      return true;
-    }
-    else
-      return false;
+    searchStack.setNumMoves(ply, numScored);
+    return bestMove != Move.NONE;
   }
 }
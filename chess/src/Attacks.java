@@ -0,0 +1,65 @@
+package chess;
+
+//blocks attacked by the pieces that do not slide, worked out once when the
+//class is loaded and shared by every game. Each table is a single flat
+//array, with the pawn table holding white's 64 blocks followed by black's
+public class Attacks
+{
+  private static final int[][] KNIGHT_STEPS = {{1, 2}, {2, 1}, {2, -1},
+                                               {1, -2}, {-1, -2}, {-2, -1},
+                                               {-2, 1}, {-1, 2}};
+  private static final int[][] KING_STEPS = {{1, 0}, {1, 1}, {0, 1},
+                                             {-1, 1}, {-1, 0}, {-1, -1},
+                                             {0, -1}, {1, -1}};
+  private static final int[][] WHITE_PAWN_STEPS = {{-1, 1}, {1, 1}};
+  private static final int[][] BLACK_PAWN_STEPS = {{-1, -1}, {1, -1}};
+
+  private static final long[] KNIGHT_TABLE = new long[64];
+  private static final long[] KING_TABLE = new long[64];
+  private static final long[] PAWN_TABLE = new long[2*64];
+
+  static
+  {
+    for (int block=0; block<64; block++)
+    {
+      KNIGHT_TABLE[block] = getStepAttacks(block, KNIGHT_STEPS);
+      KING_TABLE[block] = getStepAttacks(block, KING_STEPS);
+      PAWN_TABLE[BitBoard.WHITE*64 + block] =
+        getStepAttacks(block, WHITE_PAWN_STEPS);
+      PAWN_TABLE[BitBoard.BLACK*64 + block] =
+        getStepAttacks(block, BLACK_PAWN_STEPS);
+    }
+  }
+
+  public static long knightAttacks(int block)
+  {
+    return KNIGHT_TABLE[block];
+  }
+
+  public static long kingAttacks(int block)
+  {
+    return KING_TABLE[block];
+  }
+
+  //blocks a pawn of side (BitBoard.WHITE or BitBoard.BLACK) can capture on
+  public static long pawnAttacks(int side, int block)
+  {
+    return PAWN_TABLE[side*64 + block];
+  }
+
+  //every block one step away from block that is still on the board
+  private static long getStepAttacks(int block, int[][] steps)
+  {
+    long attacks = 0L;
+
+    for (int i=0; i<steps.length; i++)
+    {
+      int column = block % 8 + steps[i][0];
+      int row = block / 8 + steps[i][1];
+      if (column >= 0 && column < 8 && row >= 0 && row < 8)
+        attacks |= BitBoard.bit(row*8 + column);
+    }
+
+    return attacks;
+  }
+}
@@ -0,0 +1,174 @@
+package chess;
+
+public class BitBoard
+{
+  //index of each side in the occupancy boards
+  public static final int WHITE=0;
+  public static final int BLACK=1;
+
+  //the board of piece values that every square query reads from. This is
+  //the same array that MoveList and ChessBoard point to
+  private int[] squares;
+
+  //one board per piece type and colour (see pieceIndex) and one board of
+  //occupied squares for each side
+  private long[] pieceBoards;
+  private long[] sideBoards;
+
+  //zobrist key of the pieces on the board, changed as each piece is added
+  //or removed (see Zobrist)
+  private long key;
+
+  //zobrist key of the pawns alone, for looking up the pawn structure (see
+  //PawnTable)
+  private long pawnKey;
+
+  //worth of the pieces on the board in pawns, white's less black's,
+  //changed as each piece is added or removed (see PieceSquare)
+  private int worth;
+
+  public BitBoard(int[] squares)
+  {
+    this.squares = squares;
+    pieceBoards = new long[12];
+    sideBoards = new long[2];
+    load();
+  }
+
+  //rebuild every bitboard from the squares array
+  public void load()
+  {
+    for (int i=0; i<12; i++)
+      pieceBoards[i] = 0L;
+    sideBoards[WHITE] = 0L;
+    sideBoards[BLACK] = 0L;
+    key = 0L;
+    pawnKey = 0L;
+    worth = 0;
+
+    for (int block=0; block<64; block++)
+      if (squares[block] != 0)
+        addPiece(block, squares[block]);
+  }
+
+  public static long bit(int block)
+  {
+    return 1L << block;
+  }
+
+  //white pieces (1 to 6) map to 0 to 5 and black pieces (-1 to -6) map to
+  //6 to 11
+  public static int pieceIndex(int piece)
+  {
+    if (piece > 0)
+      return piece - 1;
+    return 5 - piece;
+  }
+
+  //the piece for an index from pieceIndex
+  public static int indexPiece(int index)
+  {
+    if (index < 6)
+      return index + 1;
+    return 5 - index;
+  }
+
+  public static int side(int piece)
+  {
+    if (piece > 0)
+      return WHITE;
+    return BLACK;
+  }
+
+  public static int otherSide(int side)
+  {
+    return 1 - side;
+  }
+
+  //currentPlayer 1 is white, 2 and 3 are black
+  public static int playerSide(int currentPlayer)
+  {
+    if (currentPlayer == 1)
+      return WHITE;
+    return BLACK;
+  }
+
+  public int getPiece(int block)
+  {
+    return squares[block];
+  }
+
+  //place a piece (or 0 for empty) on a block, replacing whatever was there
+  public void setPiece(int block, int piece)
+  {
+    if (squares[block] != 0)
+      removePiece(block, squares[block]);
+    if (piece != 0)
+      addPiece(block, piece);
+    squares[block] = piece;
+  }
+
+  private void addPiece(int block, int piece)
+  {
+    long b = bit(block);
+    pieceBoards[pieceIndex(piece)] |= b;
+    sideBoards[side(piece)] |= b;
+    key ^= Zobrist.getPieceKey(piece, block);
+    if (piece == 1 || piece == -1)
+      pawnKey ^= Zobrist.getPieceKey(piece, block);
+    worth += PieceSquare.getWorth(piece, block);
+  }
+
+  private void removePiece(int block, int piece)
+  {
+    long b = ~bit(block);
+    pieceBoards[pieceIndex(piece)] &= b;
+    sideBoards[side(piece)] &= b;
+    key ^= Zobrist.getPieceKey(piece, block);
+    if (piece == 1 || piece == -1)
+      pawnKey ^= Zobrist.getPieceKey(piece, block);
+    worth -= PieceSquare.getWorth(piece, block);
+  }
+
+  public long getPieces(int piece)
+  {
+    return pieceBoards[pieceIndex(piece)];
+  }
+
+  public long getSide(int side)
+  {
+    return sideBoards[side];
+  }
+
+  //the block side's king stands on, or 64 if it has no king
+  public int getKingBlock(int side)
+  {
+    long king;
+    if (side == WHITE)
+      king = pieceBoards[pieceIndex(6)];
+    else
+      king = pieceBoards[pieceIndex(-6)];
+
+    return Long.numberOfTrailingZeros(king);
+  }
+
+  public long getOccupied()
+  {
+    return sideBoards[WHITE] | sideBoards[BLACK];
+  }
+
+  public long getKey()
+  {
+    return key;
+  }
+
+  public long getPawnKey()
+  {
+    return pawnKey;
+  }
+
+  public int getWorth()
+  {
+    return worth;
+  }
+}
@@ -0,0 +1,53 @@
+package chess;
+
+//remembers the worth of recently reached positions (see
+//MoveList.getPositionWorth) so that a position reached again, by another
+//order of moves or in the next search, is only worked out once. Each entry
+//is two longs, the position's key and the worth's bits, in the slot picked
+//by the key's low bits. A new entry always replaces the old one, so the
+//cache never grows and never needs clearing
+public class EvalCache
+{
+  public static final int DEFAULT_SIZE=1 << 12;
+
+  private long[] entries;
+  private int mask;
+  //the worth found by the last probe that hit
+  private double worth;
+
+  //size is the number of entries, rounded down to a power of 2
+  public EvalCache(int size)
+  {
+    size = Integer.highestOneBit(Math.max(size, 2));
+    entries = new long[2*size];
+    mask = size - 1;
+  }
+
+  //look for key and return true if it is there, with its worth left for
+  //getWorth
+  public boolean probe(long key)
+  {
+    int index = 2*((int)key & mask);
+    //the lowest bit is set on every stored key so that an empty entry
+    //never matches
+    if (entries[index] == (key | 1))
+    {
+      worth = Double.longBitsToDouble(entries[index+1]);
+      return true;
+    }
+
+    return false;
+  }
+
+  public double getWorth()
+  {
+    return worth;
+  }
+
+  public void store(long key, double worth)
+  {
+    int index = 2*((int)key & mask);
+    entries[index] = key | 1;
+    entries[index+1] = Double.doubleToRawLongBits(worth);
+  }
+}
@@ -74,34 +74,6 @@ public class GameWindow extends JFrame implements ActionListener, KeyListener
       minimax = new Minimax(moveList);
   }
 
-  private boolean isCheckMate()
-  {
-    int kingPos;
-    if (currentPlayer == 1)
-      kingPos = moveList.getCurrentWhiteKingPos();
-    else
-      kingPos = moveList.getCurrentBlackKingPos();
-
-    //check if the king has a valid block where it can move
-    //which means its not checkMate
-    if (moveList.checkValidKingMove(kingPos, kingPos+1, currentPlayer) ||
-      moveList.checkValidKingMove(kingPos, kingPos-7, currentPlayer) ||
-        moveList.checkValidKingMove(kingPos, kingPos-8, currentPlayer) ||
-          moveList.checkValidKingMove(kingPos, kingPos-9, currentPlayer) ||
-            moveList.checkValidKingMove(kingPos, kingPos-1, currentPlayer) ||
-              moveList.checkValidKingMove(kingPos, kingPos+7, currentPlayer) ||
-                moveList.checkValidKingMove(kingPos, kingPos+8, currentPlayer) ||
-                  moveList.checkValidKingMove(kingPos, kingPos+9, currentPlayer))
-                    return false;
-
-    //check if any other pieces have valid moves which means another piece
-    //can make a move which will get the king out of check ie: not checkMate
-    if (moveList.checkMateSave(currentPlayer))
-      return false;
-
-    return true;
-  }
-
   private void promotePawn()
   {
     if ((targetBlock >= 0 && targetBlock <= 7) ||
@@ -123,96 +95,20 @@ public class GameWindow extends JFrame implements ActionListener, KeyListener
   private void movePlayerPiece()
   {
     int piece = moveList.getPiece(sourceBlock);
-    switch (piece)
+    int move = moveList.findLegalMove(sourceBlock, targetBlock, currentPlayer);
+
+    if (move != Move.NONE)
     {
-      case -1:
-        if (moveList.checkValidBlackPawnMove(sourceBlock, targetBlock,
-                                             currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-          {
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-            promotePawn();
-          }
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case 1:
-        if (moveList.checkValidWhitePawnMove(sourceBlock, targetBlock,
-                                             currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-          {
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-            promotePawn();
-          }
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case -2:
-      case 2:
-        if (moveList.checkValidRookMove(sourceBlock, targetBlock,
-                                        currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case -3:
-      case 3:
-        if (moveList.checkValidKnightMove(sourceBlock, targetBlock,
-                                          currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case -4:
-      case 4:
-        if (moveList.checkValidBishopMove(sourceBlock, targetBlock,
-                                          currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case -5:
-      case 5:
-        if (moveList.checkValidQueenMove(sourceBlock, targetBlock,
-                                         currentPlayer))
-          if (moveList.tempMoveValid(sourceBlock, targetBlock, piece,
-                                     currentPlayer))
-            moveList.movePiece(sourceBlock, targetBlock, piece);
-          else
-            historyArea.setText(" Invalid Move - Move Leaves You in Check");
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
-      case -6:
-      case 6:
-        if (moveList.checkValidKingMove(sourceBlock, targetBlock,
-                                        currentPlayer))
-        {
-          moveList.setCurrentKingPos(targetBlock, currentPlayer);
-          moveList.movePiece(sourceBlock, targetBlock, piece);
-        }
-        else
-          historyArea.setText(" Invalid Move - Try Again");
-        break;
+      moveList.movePiece(sourceBlock, targetBlock, piece);
+      if (piece == 1 || piece == -1)
+        promotePawn();
     }
+    //the piece can reach the block but its king would be left in check
+    else if ((moveList.getMoveTargets(sourceBlock, currentPlayer) &
+              BitBoard.bit(targetBlock)) != 0)
+      historyArea.setText(" Invalid Move - Move Leaves You in Check");
+    else
+      historyArea.setText(" Invalid Move - Try Again");
 
     //remove the sourceBlock from the board ie: dont display it
     sourceBlock=64;
@@ -241,10 +137,7 @@ public class GameWindow extends JFrame implements ActionListener, KeyListener
             nextPlayer();
           }
           else
-          {
-            historyArea.setText(" Check Mate  -  Game Over");
-            currentPlayer = 4;
-          }
+            endGame();
         }
         else
         {
@@ -276,13 +169,20 @@ public class GameWindow extends JFrame implements ActionListener, KeyListener
       }
     }
 
-    //check for check mate
-    if (historyArea.getText().endsWith("(CHECK)"))
-      if (isCheckMate())
-      {
-        historyArea.setText(" Check Mate  -  Game Over");
-        currentPlayer = 4;
-      }
+    //check for check mate or stale mate
+    if (currentPlayer != 4 &&
+        moveList.getGameStatus(currentPlayer) != MoveList.ONGOING)
+      endGame();
+  }
+
+  //the player to move cannot move, so the game is over
+  private void endGame()
+  {
+    if (moveList.getGameStatus(currentPlayer) == MoveList.STALE_MATE)
+      historyArea.setText(" Stale Mate  -  Game Over");
+    else
+      historyArea.setText(" Check Mate  -  Game Over");
+    currentPlayer = 4;
   }
 
   public void actionPerformed(ActionEvent e)
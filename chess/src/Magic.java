@@ -0,0 +1,222 @@
+package chess;
+
+//attack lookups for the sliding pieces. The occupied blocks that can block a
+//slider on a given block are multiplied by a "magic" number so that every
+//possible blocker layout hashes to its own entry in one shared table
+public class Magic
+{
+  private static final int[][] ROOK_DIRECTIONS = {{1, 0}, {-1, 0},
+                                                  {0, 1}, {0, -1}};
+  private static final int[][] BISHOP_DIRECTIONS = {{1, 1}, {1, -1},
+                                                    {-1, 1}, {-1, -1}};
+
+  //magic multipliers for each block, found once by trying sparse random
+  //numbers until one sent every blocker layout to a usable entry
+  private static final long[] ROOK_MAGICS = {
+    0x008000908064C000L, 0x0040200040001000L, 0x0180100080A0010AL,
+    0x8880041000800800L, 0x1200100201200804L, 0x0200020004011008L,
+    0x2180010000800600L, 0x0200005088210204L, 0x0400800040008021L,
+    0x0400400020005000L, 0x8240801000200080L, 0x8611001004200900L,
+    0x008180800C001800L, 0x0100800200800400L, 0x0A02000102000408L,
+    0x8020802300104280L, 0x0080004000402000L, 0xE010104000402000L,
+    0x0800808010002000L, 0xA280210008100100L, 0x0001818014000800L,
+    0xA002010100080400L, 0x0080240001020870L, 0x0001020004048845L,
+    0x0081826280004004L, 0x2020810900284000L, 0x0200100080802000L,
+    0x0200080080100080L, 0x8083080100100500L, 0x4406000901000400L,
+    0x0005020080800100L, 0x0090204200008114L, 0x0010400094800420L,
+    0x0900804000802002L, 0x0201001841002000L, 0x4100080080801000L,
+    0x4540040080800800L, 0x0002001004040020L, 0x0281195814001002L,
+    0x1240800040800100L, 0x0880042000524004L, 0x02C080410206002CL,
+    0x0801200241050010L, 0x8400080010008080L, 0x0008000500090010L,
+    0x0082009084020008L, 0x4012000108020004L, 0x9000104D08860004L,
+    0x2004204114800100L, 0x0148802112400300L, 0x0202842000100880L,
+    0x001B080080900080L, 0x001A002008100600L, 0x0004008004020080L,
+    0x5181000600040300L, 0x0000044401128A00L, 0x8044110480002441L,
+    0x2008110084402202L, 0x90806005090010C1L, 0x000420310A004A42L,
+    0x0023001004020801L, 0x0882001008040102L, 0x000230088118020CL,
+    0x0000019025040042L
+  };
+
+  private static final long[] BISHOP_MAGICS = {
+    0x0045010808008680L, 0x2002080204004898L, 0x0210009A10400006L,
+    0x0824050200810200L, 0x0006061105004090L, 0x00010108C0000000L,
+    0x0814040282104004L, 0x0012012201106800L, 0x10823014100C1040L,
+    0x0080C2088802808CL, 0x0281108410404000L, 0x0101212041826200L,
+    0x0020141028221058L, 0x2201020202200202L, 0x000082A801482000L,
+    0x0000008401411044L, 0x0007103014300404L, 0x0002091110010100L,
+    0x42140012040C0808L, 0x0800808802004020L, 0x90C4004210140000L,
+    0x0800200900A01000L, 0x00D0400201108810L, 0x80820183814412A0L,
+    0x00A01008202202B4L, 0x01C2021A09500402L, 0x0084440208042400L,
+    0x800400400C090100L, 0xBA10040010802100L, 0xD182009006005000L,
+    0x5011021001009004L, 0x0020420200510400L, 0x0292104000468800L,
+    0x00043009091C0500L, 0x0280441000020025L, 0x0042820080080080L,
+    0x0440101010010040L, 0x1000900100808080L, 0x0108108120089800L,
+    0x0044010200012682L, 0xC002500420900400L, 0x0040482210710800L,
+    0x0002060024000200L, 0x0281020A44000800L, 0xA0021200A4000200L,
+    0x0001301000840840L, 0x2868500108444220L, 0x0004111041000200L,
+    0x8044020842080200L, 0x0000220104210200L, 0x0000021201044000L,
+    0x0000280884040028L, 0x4012114010858003L, 0x0000081004082B88L,
+    0x3892700508208002L, 0x00220A041B060400L, 0x0812020284014881L,
+    0x010434A282103100L, 0x0490400824020800L, 0x4A20002C00208800L,
+    0x000000A011020200L, 0x4002940A02482202L, 0x5100100202140406L,
+    0x02102000840540C1L
+  };
+
+  //per block: blocks that can hold a blocker, how far to shift the product
+  //and where the block's entries start
+  private static final long[] ROOK_MASKS = new long[64];
+  private static final int[] ROOK_SHIFTS = new int[64];
+  private static final int[] ROOK_OFFSETS = new int[64];
+  private static final long[] ROOK_TABLE = new long[102400];
+
+  private static final long[] BISHOP_MASKS = new long[64];
+  private static final int[] BISHOP_SHIFTS = new int[64];
+  private static final int[] BISHOP_OFFSETS = new int[64];
+  private static final long[] BISHOP_TABLE = new long[5248];
+
+  //for every pair of blocks (indexed a*64 + b): the blocks strictly between
+  //them and the whole line through both, or 0 if they do not share a row,
+  //column or diagonal
+  private static final long[] BETWEEN = new long[64*64];
+  private static final long[] LINE = new long[64*64];
+
+  static
+  {
+    initSlider(ROOK_DIRECTIONS, ROOK_MAGICS, ROOK_MASKS, ROOK_SHIFTS,
+               ROOK_OFFSETS, ROOK_TABLE);
+    initSlider(BISHOP_DIRECTIONS, BISHOP_MAGICS, BISHOP_MASKS, BISHOP_SHIFTS,
+               BISHOP_OFFSETS, BISHOP_TABLE);
+    initLines();
+  }
+
+  public static long rookAttacks(int block, long occupied)
+  {
+    return ROOK_TABLE[ROOK_OFFSETS[block] +
+        (int)(((occupied & ROOK_MASKS[block]) * ROOK_MAGICS[block]) >>>
+              ROOK_SHIFTS[block])];
+  }
+
+  public static long bishopAttacks(int block, long occupied)
+  {
+    return BISHOP_TABLE[BISHOP_OFFSETS[block] +
+        (int)(((occupied & BISHOP_MASKS[block]) * BISHOP_MAGICS[block]) >>>
+              BISHOP_SHIFTS[block])];
+  }
+
+  public static long queenAttacks(int block, long occupied)
+  {
+    return rookAttacks(block, occupied) | bishopAttacks(block, occupied);
+  }
+
+  public static long getBetween(int a, int b)
+  {
+    return BETWEEN[a*64 + b];
+  }
+
+  public static long getLine(int a, int b)
+  {
+    return LINE[a*64 + b];
+  }
+
+  private static void initLines()
+  {
+    for (int a=0; a<64; a++)
+      for (int b=0; b<64; b++)
+      {
+        if (a == b)
+          continue;
+
+        long ends = BitBoard.bit(a) | BitBoard.bit(b);
+        if ((rookAttacks(a, 0L) & BitBoard.bit(b)) != 0)
+        {
+          BETWEEN[a*64 + b] = rookAttacks(a, ends) & rookAttacks(b, ends);
+          LINE[a*64 + b] = (rookAttacks(a, 0L) & rookAttacks(b, 0L)) | ends;
+        }
+        else if ((bishopAttacks(a, 0L) & BitBoard.bit(b)) != 0)
+        {
+          BETWEEN[a*64 + b] = bishopAttacks(a, ends) & bishopAttacks(b, ends);
+          LINE[a*64 + b] = (bishopAttacks(a, 0L) & bishopAttacks(b, 0L)) |
+                           ends;
+        }
+      }
+  }
+
+  //fill in every block's part of the table by walking the rays for each
+  //possible layout of blockers
+  private static void initSlider(int[][] directions, long[] magics,
+                                 long[] masks, int[] shifts, int[] offsets,
+                                 long[] table)
+  {
+    int offset = 0;
+
+    for (int block=0; block<64; block++)
+    {
+      long mask = getRelevantBlocks(block, directions);
+      masks[block] = mask;
+      shifts[block] = 64 - Long.bitCount(mask);
+      offsets[block] = offset;
+
+      //visit every subset of the mask
+      long subset = 0L;
+      do
+      {
+        int index = (int)((subset * magics[block]) >>> shifts[block]);
+        table[offset + index] = getRayAttacks(block, subset, directions);
+        subset = (subset - mask) & mask;
+      }
+      while (subset != 0);
+
+      offset += 1 << (64 - shifts[block]);
+    }
+  }
+
+  //blocks along each ray that could hold a blocker. The last block on each
+  //ray is left out as a piece there cannot block anything
+  private static long getRelevantBlocks(int block, int[][] directions)
+  {
+    long mask = 0L;
+
+    for (int i=0; i<directions.length; i++)
+    {
+      int column = block % 8 + directions[i][0];
+      int row = block / 8 + directions[i][1];
+      while (onBoard(column + directions[i][0], row + directions[i][1]))
+      {
+        mask |= BitBoard.bit(row*8 + column);
+        column += directions[i][0];
+        row += directions[i][1];
+      }
+    }
+
+    return mask;
+  }
+
+  //walk each ray outwards from the block, stopping at the first piece found
+  private static long getRayAttacks(int block, long occupied,
+                                    int[][] directions)
+  {
+    long attacks = 0L;
+
+    for (int i=0; i<directions.length; i++)
+    {
+      int column = block % 8 + directions[i][0];
+      int row = block / 8 + directions[i][1];
+      while (onBoard(column, row))
+      {
+        long square = BitBoard.bit(row*8 + column);
+        attacks |= square;
+        if ((occupied & square) != 0)
+          break;
+        column += directions[i][0];
+        row += directions[i][1];
+      }
+    }
+
+    return attacks;
+  }
+
+  private static boolean onBoard(int column, int row)
+  {
+    return column >= 0 && column < 8 && row >= 0 && row < 8;
+  }
+}
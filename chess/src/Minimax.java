@@ -1,7 +1,5 @@
 package chess;
 
-import java.util.*;
-
 public class Minimax
 {
   AIMoveGen aiMoveGen;
@@ -11,66 +9,40 @@ public class Minimax
   private int moveNum;
   private int finalSource;
   private int finalDest;
-  private int initialBestSource;
-  private int initialBestDest;
-  private LinkedList allMoves;
+  private int initialBestMove;
+  //the plies searched: black's move, white's reply and black's answer
+  private static final int BLACK_PLY=0;
+  private static final int WHITE_PLY=1;
+  private static final int REPLY_PLY=2;
+  //move lists for every ply, made once so searching allocates nothing
+  private SearchStack searchStack;
 
   public Minimax(MoveList moveList)
   {
     this.moveList = moveList;
-    aiMoveGen = new AIMoveGen(moveList);
-    allMoves = new LinkedList();
-  }
-
-  //return an array of the currentBoard that moveList is using
-  private int[] getCurrentBoard()
-  {
-    int[] returnBoard = new int[64];
-    int tmpBoard[] = moveList.getCurrentBoard();
-    for (int i=0; i<64; i++)
-      returnBoard[i] = tmpBoard[i];
-
-    return returnBoard;
+    searchStack = new SearchStack();
+    aiMoveGen = new AIMoveGen(moveList, searchStack);
   }
 
   public boolean makeMove()
   {
     moveWorth = -100.0;
     moveNum = -100;
-    allMoves.clear();
-    LinkedList blackChildren = new LinkedList();
-    LinkedList possibleMoves = new LinkedList();
-    //get the currentBoard to return to after minimax is finished
-    int[] currentBoard = getCurrentBoard();
 
     //generate all children for this board and store them
-    if (aiMoveGen.move(3))
+    if (aiMoveGen.move(3, BLACK_PLY))
     {
-      possibleMoves = aiMoveGen.getPossibleMoves();
       initialBestMoveWorth=aiMoveGen.getMoveWorth();
-      initialBestSource = aiMoveGen.getSourceBlock();
-      initialBestDest = aiMoveGen.getDestBlock();
-      for (int i=0; i<possibleMoves.size(); i++)
-        allMoves.add(possibleMoves.get(i));
-
-      //transform all possible moves into board positions
-      for (int i=0; i<allMoves.size(); i++)
+      initialBestMove = aiMoveGen.getMove();
+      int[] allMoves = searchStack.getMoves(BLACK_PLY);
+      double[] allScores = searchStack.getScores(BLACK_PLY);
+      int numAllMoves = searchStack.getNumMoves(BLACK_PLY);
+
+      //if move is for checkMate then make move now and return. Each move
+      //was already scored when the children were generated
+      for (int i=0; i<numAllMoves; i++)
       {
-        String posMove = (String)possibleMoves.get(i);
-        int spacePos = posMove.indexOf(" ");
-        int source = Integer.parseInt(posMove.substring(0, spacePos));
-        int dest = Integer.parseInt(posMove.substring(spacePos+1,
-            posMove.length()));
-        int piece = moveList.getPiece(source);
-
-        //make the move, store the child board position, restore the board
-        moveList.movePiece(source, dest, piece);
-        int[] childBoard = getCurrentBoard();
-        blackChildren.add(childBoard);
-        moveList.setCurrentBoard(currentBoard);
-
-        //if move is for checkMate then make move now and return
-        if (moveList.getMoveWorth(source, dest, 3) == 100)
+        if (allScores[i] == 100)
         {
           moveNum = i;
           move();
@@ -78,13 +50,15 @@ public class Minimax
         }
       }
 
-      LinkedList whiteChildren = getWhiteMoves(blackChildren);
-      //reset the board
-      moveList.setCurrentBoard(currentBoard);
-
-      getFinalBlackBoard(whiteChildren);
-      //reset the board
-      moveList.setCurrentBoard(currentBoard);
+      //play every black move, answer it with the best white move and then
+      //see how good blacks best reply is. Each move is taken back before
+      //trying the next
+      for (int i=0; i<numAllMoves; i++)
+      {
+        moveList.makeMove(allMoves[i]);
+        getWhiteMove(i);
+        moveList.unmakeMove();
+      }
 
       if (moveNum != -100)
       {
@@ -98,29 +72,16 @@ public class Minimax
 
   private void move()
   {
-    int source=64;
-    int dest=64;
-    int piece;
+    int move;
     //determine if the direct child move is better than the planned move
     if (moveWorth > initialBestMoveWorth)
-    {
-      String posMove = (String) allMoves.get(moveNum);
-      int spacePos = posMove.indexOf(" ");
-      source = Integer.parseInt(posMove.substring(0, spacePos));
-      dest = Integer.parseInt(posMove.substring(spacePos + 1,
-          posMove.length()));
-      piece = moveList.getPiece(source);
-    }
+      move = searchStack.getMoves(BLACK_PLY)[moveNum];
     else
-    {
-      piece = moveList.getPiece(initialBestSource);
-      source = initialBestSource;
-      dest = initialBestDest;
-    }
+      move = initialBestMove;
 
-    //make sure that all the canCastle values are true ie: havent been
-    //changed by minimax
-    moveList.setBlackCanCastle();
+    int source = Move.getSource(move);
+    int dest = Move.getDest(move);
+    int piece = moveList.getPiece(source);
 
     moveList.movePiece(source, dest, piece);
     //set final move so chessBoard can display the highlighted move
@@ -128,70 +89,23 @@ public class Minimax
     finalDest = dest;
 
     //promote pawn
-    if (dest <= 7 && moveList.getPiece(dest) == -1)
-      moveList.promotePawn(3, 3, dest);
-
-    //make sure game knows where the kings are
-    int[] tmpBoard = getCurrentBoard();
-    for (int k=0; k<64; k++)
-    {
-      if (tmpBoard[k] == 6)
-        moveList.setCurrentKingPos(k, 1);
-
-      if (tmpBoard[k] == -6)
-        moveList.setCurrentKingPos(k, 3);
-    }
+    if (Move.getPromotion(move) != 0)
+      moveList.promotePawn(3, Move.getPromotion(move) - 2, dest);
   }
 
-  private LinkedList getWhiteMoves(LinkedList blackChildren)
+  //get the best white move based on the black child board, play it and
+  //score blacks best move from there
+  private void getWhiteMove(int moveNum)
   {
-    LinkedList whiteChildren = new LinkedList();
-
-    for (int i=0; i<blackChildren.size(); i++)
+    if (aiMoveGen.move(1, WHITE_PLY))
     {
-      //iteratively make every move in blackChildren
-      int[] blackChildBoard = (int[])blackChildren.get(i);
-      moveList.setCurrentBoard(blackChildBoard);
-
-      //make sure game knows where the kings are
-      for (int k=0; k<64; k++)
-      {
-        if (blackChildBoard[k] == 6)
-          moveList.setCurrentKingPos(k, 1);
-
-        if (blackChildBoard[k] == -6)
-          moveList.setCurrentKingPos(k, 3);
-      }
-
-      //get the best white move based on the blackChildBoard
-      if (aiMoveGen.move(1))
-      {
-        int source = aiMoveGen.getSourceBlock();
-        int dest = aiMoveGen.getDestBlock();
-        int piece = aiMoveGen.getPiece();
-        //make the move and store the board position
-        moveList.movePiece(source, dest, piece);
-        int[] childBoard = getCurrentBoard();
-        whiteChildren.add(childBoard);
-      }
-    }
-
-    return whiteChildren;
-  }
+      moveList.makeMove(aiMoveGen.getMove());
 
-  private void getFinalBlackBoard(LinkedList whiteChildren)
-  {
-    for (int i=0; i<whiteChildren.size(); i++)
-    {
-      //iteratively make every move in whiteChildren
-      int[] whiteChildBoard = (int[])whiteChildren.get(i);
-      moveList.setCurrentBoard(whiteChildBoard);
+      //get the best board based on the current white board position
+      if (aiMoveGen.move(3, REPLY_PLY))
+        setBestMove(moveNum);
 
-      //get the best board based on the current whiteBoard position
-      if (aiMoveGen.move(3))
-      {
-        setBestMove(i);
-      }
+      moveList.unmakeMove();
     }
   }
 
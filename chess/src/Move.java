@@ -0,0 +1,57 @@
+package chess;
+
+//a move packed into a single int so lists of moves can be kept in plain int
+//arrays and compared without creating any objects
+//  bits 0-5    source block
+//  bits 6-11   dest block
+//  bits 12-14  piece a pawn is promoted to (2 to 5 as on the board, 0 none)
+//  bits 15+    flags
+public class Move
+{
+  //room for every move in any position
+  public static final int MAX_MOVES=256;
+
+  //0 moves from block 0 to block 0 so can never be a real move
+  public static final int NONE=0;
+
+  public static final int CAPTURE=1 << 15;
+  public static final int CASTLE=1 << 16;
+  public static final int DOUBLE_PUSH=1 << 17;
+  public static final int EN_PASSANT=1 << 18;
+
+  public static int create(int sourceBlock, int destBlock, int promotion,
+                           int flags)
+  {
+    return sourceBlock | (destBlock << 6) | (promotion << 12) | flags;
+  }
+
+  public static int getSource(int move)
+  {
+    return move & 63;
+  }
+
+  public static int getDest(int move)
+  {
+    return (move >>> 6) & 63;
+  }
+
+  public static int getPromotion(int move)
+  {
+    return (move >>> 12) & 7;
+  }
+
+  public static boolean isCapture(int move)
+  {
+    return (move & CAPTURE) != 0;
+  }
+
+  public static boolean isCastle(int move)
+  {
+    return (move & CASTLE) != 0;
+  }
+
+  public static boolean isEnPassant(int move)
+  {
+    return (move & EN_PASSANT) != 0;
+  }
+}
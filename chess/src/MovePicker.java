@@ -0,0 +1,186 @@
+package chess;
+
+//hands out the legal moves of a position one at a time, most promising
+//first: the hash move, then captures (biggest piece taken by the smallest
+//piece first), then the killer moves, then every other move, and last the
+//captures that lose material once the other side takes back. Each group is
+//only generated once the one before it has been used up, so a search that
+//stops after the first few moves never pays for generating the rest
+public class MovePicker
+{
+  //each group's moves are generated in the stage before they are handed out
+  private static final int HASH_MOVE=0;
+  private static final int GENERATE_CAPTURES=1;
+  private static final int CAPTURES=2;
+  private static final int KILLERS=3;
+  private static final int GENERATE_QUIET_MOVES=4;
+  private static final int QUIET_MOVES=5;
+  private static final int BAD_CAPTURES=6;
+  private static final int DONE=7;
+
+  MoveList moveList;
+  private int currentPlayer;
+  private int hashMove;
+  private int[] killers;
+  private int stage;
+
+  //the moves of the group being handed out and, for captures, their order
+  private int[] moves;
+  private int[] scores;
+  private int numMoves;
+  private int index;
+
+  //captures put off until every other move has been handed out
+  private int[] badCaptures;
+  private int numBadCaptures;
+
+  public MovePicker(MoveList moveList)
+  {
+    this.moveList = moveList;
+    killers = new int[2];
+    moves = new int[Move.MAX_MOVES];
+    scores = new int[Move.MAX_MOVES];
+    badCaptures = new int[Move.MAX_MOVES];
+  }
+
+  //start handing out currentPlayer's moves in the current position. The
+  //hash move and killers can be Move.NONE, and are skipped if they are not
+  //legal here
+  public void init(int currentPlayer, int hashMove, int killer1, int killer2)
+  {
+    this.currentPlayer = currentPlayer;
+    this.hashMove = hashMove;
+    killers[0] = killer1;
+    killers[1] = killer2;
+    stage = HASH_MOVE;
+    numMoves = 0;
+    index = 0;
+    numBadCaptures = 0;
+  }
+
+  //the next move, or Move.NONE once every move has been handed out
+  public int next()
+  {
+    while (stage != DONE)
+    {
+      switch (stage)
+      {
+        case HASH_MOVE:
+          stage = GENERATE_CAPTURES;
+          if (moveList.isLegalMove(hashMove, currentPlayer))
+            return hashMove;
+          break;
+        case GENERATE_CAPTURES:
+          numMoves = moveList.generateCaptures(currentPlayer, moves);
+          scoreCaptures();
+          index = 0;
+          stage = CAPTURES;
+          break;
+        case CAPTURES:
+          if (index < numMoves)
+          {
+            int move = pickBestCapture();
+            if (move == hashMove)
+              break;
+            if (isLosingCapture(move))
+              badCaptures[numBadCaptures++] = move;
+            else
+              return move;
+            break;
+          }
+
+          stage = KILLERS;
+          index = 0;
+          break;
+        case KILLERS:
+          if (index < killers.length)
+          {
+            int move = killers[index++];
+            //killers are quiet moves, captures have already been handed out
+            if (move != hashMove && !Move.isCapture(move) &&
+                (index == 1 || move != killers[0]) &&
+                moveList.isLegalMove(move, currentPlayer))
+              return move;
+            break;
+          }
+
+          stage = GENERATE_QUIET_MOVES;
+          break;
+        case GENERATE_QUIET_MOVES:
+          numMoves = moveList.generateQuietMoves(currentPlayer, moves);
+          index = 0;
+          stage = QUIET_MOVES;
+          break;
+        case QUIET_MOVES:
+          if (index < numMoves)
+          {
+            int move = moves[index++];
+            if (move != hashMove && move != killers[0] && move != killers[1])
+              return move;
+            break;
+          }
+
+          stage = BAD_CAPTURES;
+          index = 0;
+          break;
+        case BAD_CAPTURES:
+          if (index < numBadCaptures)
+            return badCaptures[index++];
+
+          stage = DONE;
+          break;
+      }
+    }
+
+    return Move.NONE;
+  }
+
+  //most valuable piece taken first, and the least valuable piece taking it
+  //first among those
+  private void scoreCaptures()
+  {
+    for (int i=0; i<numMoves; i++)
+    {
+      int victim = 1;
+      if (!Move.isEnPassant(moves[i]))
+        victim = Math.abs(moveList.getPiece(Move.getDest(moves[i])));
+      int attacker = Math.abs(moveList.getPiece(Move.getSource(moves[i])));
+
+      scores[i] = PieceSquare.getValue(victim)*16 -
+                  PieceSquare.getValue(attacker);
+    }
+  }
+
+  //a capture loses material if the other side can take back for more than
+  //was taken. Taking a piece worth at least as much as the taker can never
+  //lose, so the exchange only needs working out for the rest
+  private boolean isLosingCapture(int move)
+  {
+    int victim = 1;
+    if (!Move.isEnPassant(move))
+      victim = Math.abs(moveList.getPiece(Move.getDest(move)));
+    int attacker = Math.abs(moveList.getPiece(Move.getSource(move)));
+
+    if (PieceSquare.getValue(victim) >= PieceSquare.getValue(attacker))
+      return false;
+    return moveList.getExchangeWorth(move) < 0;
+  }
+
+  //swap the best of the remaining captures to the front and return it, so
+  //captures that are never reached are never sorted
+  private int pickBestCapture()
+  {
+    int best = index;
+    for (int i=index+1; i<numMoves; i++)
+      if (scores[i] > scores[best])
+        best = i;
+
+    int move = moves[best];
+    moves[best] = moves[index];
+    scores[best] = scores[index];
+    moves[index] = move;
+    index++;
+
+    return move;
+  }
+}
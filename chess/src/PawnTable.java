@@ -0,0 +1,89 @@
+package chess;
+
+//worth of the pawn structure for recently seen pawn layouts. Pawns move
+//far less often than the other pieces, so most positions scored share their
+//pawns with one scored just before and the structure only has to be worked
+//out again when a pawn moves or is taken. Each entry is three longs: the
+//pawn key (see BitBoard.getPawnKey) with its lowest bit set so an empty
+//entry never matches, both sides' passed pawns and the worth. A new entry
+//always replaces the old one
+public class PawnTable
+{
+  public static final int DEFAULT_SIZE=256;
+
+  //in hundredths of a pawn, for each pawn
+  private static final int PASSED_WORTH=50;
+  private static final int DOUBLED_WORTH=-25;
+  private static final int ISOLATED_WORTH=-25;
+
+  private long[] entries;
+  private int mask;
+  private long hits=0;
+  private long misses=0;
+
+  //the structure found by the last call to probe
+  private long passedPawns;
+  private int worth;
+
+  //size is the number of entries, rounded down to a power of 2
+  public PawnTable(int size)
+  {
+    size = Integer.highestOneBit(Math.max(size, 2));
+    entries = new long[3*size];
+    mask = size - 1;
+  }
+
+  //look up the structure of the pawns given, working it out and storing it
+  //if it is not there, ready for getWorth and getPassedPawns
+  public void probe(long pawnKey, long whitePawns, long blackPawns)
+  {
+    int index = 3*((int)pawnKey & mask);
+    if (entries[index] == (pawnKey | 1))
+    {
+      passedPawns = entries[index+1];
+      worth = (int)entries[index+2];
+      hits++;
+      return;
+    }
+
+    misses++;
+    passedPawns =
+      Pawns.getPassedPawns(BitBoard.WHITE, whitePawns, blackPawns) |
+      Pawns.getPassedPawns(BitBoard.BLACK, blackPawns, whitePawns);
+    worth = getSideWorth(BitBoard.WHITE, whitePawns) -
+            getSideWorth(BitBoard.BLACK, blackPawns);
+
+    entries[index] = pawnKey | 1;
+    entries[index+1] = passedPawns;
+    entries[index+2] = worth;
+  }
+
+  private int getSideWorth(int side, long pawns)
+  {
+    return Long.bitCount(pawns & passedPawns) * PASSED_WORTH +
+           Long.bitCount(Pawns.getDoubledPawns(side, pawns)) * DOUBLED_WORTH +
+           Long.bitCount(Pawns.getIsolatedPawns(pawns)) * ISOLATED_WORTH;
+  }
+
+  //white's structure less black's, in hundredths of a pawn
+  public int getWorth()
+  {
+    return worth;
+  }
+
+  //both sides' passed pawns
+  public long getPassedPawns()
+  {
+    return passedPawns;
+  }
+
+  public long getHits()
+  {
+    return hits;
+  }
+
+  public long getMisses()
+  {
+    return misses;
+  }
+}
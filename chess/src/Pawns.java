@@ -0,0 +1,127 @@
+package chess;
+
+//moves and attacks for every pawn of a side at once. Each function shifts
+//a whole bitboard of pawns forward, with the column masks stopping
+//captures from wrapping around onto the other side of the board
+public class Pawns
+{
+  public static final long COLUMN_A=0x0101010101010101L;
+  public static final long COLUMN_H=0x8080808080808080L;
+  //the rows a pawn lands on after the first block of a double block move
+  public static final long WHITE_DOUBLE_ROW=0x0000000000FF0000L;
+  public static final long BLACK_DOUBLE_ROW=0x0000FF0000000000L;
+
+  //how far the bits of a pawn move towards the blocks it can reach, for
+  //a single block move and for captures towards column a and column h
+  public static int getPushShift(int side)
+  {
+    if (side == BitBoard.WHITE)
+      return 8;
+    return -8;
+  }
+
+  public static int getLeftShift(int side)
+  {
+    if (side == BitBoard.WHITE)
+      return 7;
+    return -9;
+  }
+
+  public static int getRightShift(int side)
+  {
+    if (side == BitBoard.WHITE)
+      return 9;
+    return -7;
+  }
+
+  //blocks the pawns reach with a single block move
+  public static long getPushes(int side, long pawns, long empty)
+  {
+    return shift(pawns, getPushShift(side)) & empty;
+  }
+
+  //blocks the pawns reach with a double block move
+  public static long getDoublePushes(int side, long pawns, long empty)
+  {
+    long row;
+    if (side == BitBoard.WHITE)
+      row = WHITE_DOUBLE_ROW;
+    else
+      row = BLACK_DOUBLE_ROW;
+
+    return getPushes(side, getPushes(side, pawns, empty) & row, empty);
+  }
+
+  //blocks attacked towards column a
+  public static long getLeftAttacks(int side, long pawns)
+  {
+    return shift(pawns & ~COLUMN_A, getLeftShift(side));
+  }
+
+  //blocks attacked towards column h
+  public static long getRightAttacks(int side, long pawns)
+  {
+    return shift(pawns & ~COLUMN_H, getRightShift(side));
+  }
+
+  public static long getAttacks(int side, long pawns)
+  {
+    return getLeftAttacks(side, pawns) | getRightAttacks(side, pawns);
+  }
+
+  //every block in front of the pawns, up to the end of the board
+  public static long getFrontSpans(int side, long pawns)
+  {
+    if (side == BitBoard.WHITE)
+    {
+      pawns |= pawns << 8;
+      pawns |= pawns << 16;
+      pawns |= pawns << 32;
+      return pawns << 8;
+    }
+
+    pawns |= pawns >>> 8;
+    pawns |= pawns >>> 16;
+    pawns |= pawns >>> 32;
+    return pawns >>> 8;
+  }
+
+  //pawns with no enemy pawn in front of them on their own column or either
+  //column next to it
+  public static long getPassedPawns(int side, long pawns, long enemyPawns)
+  {
+    long stopped = getFrontSpans(BitBoard.otherSide(side), enemyPawns);
+    stopped |= ((stopped & ~COLUMN_A) >>> 1) | ((stopped & ~COLUMN_H) << 1);
+
+    return pawns & ~stopped;
+  }
+
+  //pawns with another pawn of their own side in front of them on the same
+  //column
+  public static long getDoubledPawns(int side, long pawns)
+  {
+    return pawns & getFrontSpans(BitBoard.otherSide(side), pawns);
+  }
+
+  //pawns with no pawn of their own side on either column next to them
+  public static long getIsolatedPawns(long pawns)
+  {
+    long columns = getColumns(pawns);
+    return pawns & ~(((columns & ~COLUMN_A) >>> 1) |
+                     ((columns & ~COLUMN_H) << 1));
+  }
+
+  //every block of each column holding a pawn
+  public static long getColumns(long pawns)
+  {
+    return pawns | getFrontSpans(BitBoard.WHITE, pawns) |
+           getFrontSpans(BitBoard.BLACK, pawns);
+  }
+
+  private static long shift(long pawns, int shift)
+  {
+    if (shift > 0)
+      return pawns << shift;
+    return pawns >>> -shift;
+  }
+}
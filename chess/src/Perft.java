@@ -0,0 +1,195 @@
+package chess;
+
+//count every position reachable from a board to a fixed depth. The counts
+//for the standard test positions are well known so any change to the move
+//generation can be checked against them, and the time taken shows how fast
+//moves are generated
+//  java chess.Perft                        run the test positions
+//  java chess.Perft perft <depth> [fen]    count from the board (or fen)
+//  java chess.Perft divide <depth> [fen]   count below each move
+public class Perft
+{
+  public static final String START_FEN =
+    "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+  //test positions with the number of positions found at the given depth
+  private static final String[] SUITE_FENS = {
+    START_FEN,
+    "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+    "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+    "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+    "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1",
+    "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8"
+  };
+  private static final int[] SUITE_DEPTHS = {5, 4, 5, 4, 4, 4};
+  private static final long[] SUITE_NODES = {4865609L, 4085603L, 674624L,
+                                             422333L, 422333L, 2103487L};
+
+  private static final String PIECES = "prnbqk";
+  private static final int MAX_DEPTH=32;
+
+  private MoveList moveList;
+  private int startPlayer;
+  //one list of moves for each ply so nothing is allocated while counting
+  private int[][] moves;
+
+  public Perft(MoveList moveList, int currentPlayer)
+  {
+    this.moveList = moveList;
+    startPlayer = currentPlayer;
+    moves = new int[MAX_DEPTH][Move.MAX_MOVES];
+  }
+
+  public long perft(int depth)
+  {
+    if (depth == 0)
+      return 1;
+    return perft(depth, 0, startPlayer);
+  }
+
+  //count below each of the first moves separately and print each count,
+  //so a wrong total can be followed down to the move that causes it
+  public long divide(int depth)
+  {
+    long total = 0;
+    int numMoves = moveList.generateLegalMoves(startPlayer, moves[0]);
+
+    for (int i=0; i<numMoves; i++)
+    {
+      long nodes = 1;
+      moveList.makeMove(moves[0][i]);
+      if (depth > 1)
+        nodes = perft(depth-1, 1, nextPlayer(startPlayer));
+      moveList.unmakeMove();
+
+      System.out.println(getMoveName(moves[0][i]) + ": " + nodes);
+      total += nodes;
+    }
+
+    return total;
+  }
+
+  private long perft(int depth, int ply, int currentPlayer)
+  {
+    int numMoves = moveList.generateLegalMoves(currentPlayer, moves[ply]);
+
+    //every move generated is legal so the last ply only needs counting
+    if (depth == 1)
+      return numMoves;
+
+    long nodes = 0;
+    for (int i=0; i<numMoves; i++)
+    {
+      moveList.makeMove(moves[ply][i]);
+      nodes += perft(depth-1, ply+1, nextPlayer(currentPlayer));
+      moveList.unmakeMove();
+    }
+
+    return nodes;
+  }
+
+  private static int nextPlayer(int currentPlayer)
+  {
+    if (currentPlayer == 1)
+      return 3;
+    return 1;
+  }
+
+  private static String getBlockName(int block)
+  {
+    return "" + (char)('a' + block % 8) + (char)('1' + block / 8);
+  }
+
+  private static String getMoveName(int move)
+  {
+    String name = getBlockName(Move.getSource(move)) +
+                  getBlockName(Move.getDest(move));
+    if (Move.getPromotion(move) != 0)
+      name += PIECES.charAt(Move.getPromotion(move) - 1);
+    return name;
+  }
+
+  //run every test position and report any count that does not match.
+  //Returns true if they all match
+  public static boolean runSuite()
+  {
+    boolean passed = true;
+    long totalNodes = 0;
+    long totalTime = 0;
+
+    for (int i=0; i<SUITE_FENS.length; i++)
+    {
+      MoveList moveList = new MoveList();
+      Perft perft = new Perft(moveList, moveList.loadFen(SUITE_FENS[i]));
+
+      long start = System.nanoTime();
+      long nodes = perft.perft(SUITE_DEPTHS[i]);
+      long time = System.nanoTime() - start;
+      totalNodes += nodes;
+      totalTime += time;
+
+      String result = "ok";
+      if (nodes != SUITE_NODES[i])
+      {
+        result = "FAILED expected " + SUITE_NODES[i];
+        passed = false;
+      }
+      System.out.println(SUITE_FENS[i] + "  depth " + SUITE_DEPTHS[i] +
+                         "  " + nodes + "  " + result + "  " +
+                         getNodesPerSecond(nodes, time) + " nps");
+    }
+
+    System.out.println("total " + totalNodes + " nodes  " +
+                       getNodesPerSecond(totalNodes, totalTime) + " nps");
+    return passed;
+  }
+
+  private static long getNodesPerSecond(long nodes, long nanos)
+  {
+    if (nanos == 0)
+      return 0;
+    return nodes * 1000000000L / nanos;
+  }
+
+  public static void main(String[] args)
+  {
+    if (args.length == 0 || args[0].equals("suite"))
+    {
+      if (!runSuite())
+        System.exit(1);
+      return;
+    }
+
+    if (args.length < 2 ||
+        !(args[0].equals("perft") || args[0].equals("divide")))
+    {
+      System.out.println("usage: Perft [suite | perft <depth> [fen] | " +
+                         "divide <depth> [fen]]");
+      System.exit(1);
+    }
+
+    int depth = Integer.parseInt(args[1]);
+    String fen = START_FEN;
+    if (args.length > 2)
+    {
+      fen = args[2];
+      //allow the fen to be passed without quotes
+      for (int i=3; i<args.length; i++)
+        fen += " " + args[i];
+    }
+
+    MoveList moveList = new MoveList();
+    Perft perft = new Perft(moveList, moveList.loadFen(fen));
+
+    long start = System.nanoTime();
+    long nodes;
+    if (args[0].equals("divide"))
+      nodes = perft.divide(depth);
+    else
+      nodes = perft.perft(depth);
+    long time = System.nanoTime() - start;
+
+    System.out.println("nodes " + nodes + "  time " + time / 1000000 +
+                       "ms  " + getNodesPerSecond(nodes, time) + " nps");
+  }
+}
@@ -0,0 +1,52 @@
+package chess;
+
+//worth of each piece on each block as the AI counts it, in pawns: the
+//piece's value (see getValue), 1 more in the middle four rows, and a pawn
+//on the last row counted as the queen it is about to become. BitBoard keeps the
+//total for the board up to date as pieces move, so the AI never has to add
+//up the whole board
+public class PieceSquare
+{
+  //empty, pawn, rook, knight, bishop, queen, king
+  private static final int[] VALUES = {0, 1, 5, 3, 3, 9, 10};
+  private static final int QUEEN_PROMOTION=9;
+
+  //white's pieces are worth their value, black's the negative of it
+  private static final int[] TABLE = new int[12*64];
+
+  static
+  {
+    for (int index=0; index<12; index++)
+    {
+      int piece = BitBoard.indexPiece(index);
+      for (int block=0; block<64; block++)
+      {
+        int worth = getValue(piece);
+        if (block >= 16 && block <= 47)
+          worth++;
+        else if ((piece == 1 && block >= 56) || (piece == -1 && block <= 7))
+          worth += QUEEN_PROMOTION;
+
+        if (piece > 0)
+          TABLE[index*64 + block] = worth;
+        else
+          TABLE[index*64 + block] = -worth;
+      }
+    }
+  }
+
+  //value of a piece (of either side, or 0 for none) in pawns, the one
+  //table of piece values used for scoring boards, captures and exchanges
+  public static int getValue(int piece)
+  {
+    return VALUES[Math.abs(piece)];
+  }
+
+  //0 for an empty block
+  public static int getWorth(int piece, int block)
+  {
+    if (piece == 0)
+      return 0;
+    return TABLE[BitBoard.pieceIndex(piece)*64 + block];
+  }
+}
@@ -0,0 +1,43 @@
+package chess;
+
+//everything the AI search needs for each ply, made once when the search is
+//created and reused for every move after that, so searching allocates
+//nothing. Ply 0 is the AI's own move, ply 1 the reply to it and so on. The
+//records for taking moves back are kept by MoveList's undo stack
+public class SearchStack
+{
+  public static final int MAX_PLY=8;
+
+  //the moves scored at each ply and the worth of each (see
+  //MoveList.getMoveWorth)
+  private int[][] moves;
+  private double[][] scores;
+  private int[] numMoves;
+
+  public SearchStack()
+  {
+    moves = new int[MAX_PLY][Move.MAX_MOVES];
+    scores = new double[MAX_PLY][Move.MAX_MOVES];
+    numMoves = new int[MAX_PLY];
+  }
+
+  public int[] getMoves(int ply)
+  {
+    return moves[ply];
+  }
+
+  public double[] getScores(int ply)
+  {
+    return scores[ply];
+  }
+
+  public int getNumMoves(int ply)
+  {
+    return numMoves[ply];
+  }
+
+  public void setNumMoves(int ply, int num)
+  {
+    numMoves[ply] = num;
+  }
+}
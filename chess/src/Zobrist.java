@@ -0,0 +1,60 @@
+package chess;
+
+import java.util.Random;
+
+//random numbers used to hash a position into a single long. A position's
+//key is the exclusive or of the number for each piece on its block and the
+//numbers for the side to move, the castles still allowed and the en passant
+//column, so a move only has to change the numbers for what it changes
+public class Zobrist
+{
+  //fixed so that a position always gets the same key
+  private static final long SEED=0x5DEECE66DL;
+
+  private static final long[] PIECE_KEYS = new long[12*64];
+  //one for each combination of the four castles (see MoveList)
+  private static final long[] CASTLE_KEYS = new long[16];
+  //one for each column, the last (no en passant block) is 0
+  private static final long[] EN_PASSANT_KEYS = new long[9];
+  private static final long BLACK_TO_MOVE_KEY;
+
+  static
+  {
+    Random random = new Random(SEED);
+
+    for (int i=0; i<PIECE_KEYS.length; i++)
+      PIECE_KEYS[i] = random.nextLong();
+
+    //no castles allowed leaves the key unchanged
+    for (int i=1; i<CASTLE_KEYS.length; i++)
+      CASTLE_KEYS[i] = random.nextLong();
+
+    for (int i=0; i<8; i++)
+      EN_PASSANT_KEYS[i] = random.nextLong();
+
+    BLACK_TO_MOVE_KEY = random.nextLong();
+  }
+
+  public static long getPieceKey(int piece, int block)
+  {
+    return PIECE_KEYS[BitBoard.pieceIndex(piece)*64 + block];
+  }
+
+  public static long getCastleKey(int castleRights)
+  {
+    return CASTLE_KEYS[castleRights];
+  }
+
+  //enPassantBlock is 64 when there is no en passant block
+  public static long getEnPassantKey(int enPassantBlock)
+  {
+    if (enPassantBlock == 64)
+      return EN_PASSANT_KEYS[8];
+    return EN_PASSANT_KEYS[enPassantBlock % 8];
+  }
+
+  public static long getBlackToMoveKey()
+  {
+    return BLACK_TO_MOVE_KEY;
+  }
+}